@@ -1,8 +1,6 @@
 package DataConsumer;
 
 import LogGenerator.Configuration.ConfigProperties;
-import FileWriter.FileWriterFactory;
-import FileWriter.FileWriterStrategy;
 import LogGenerator.LogWriter;
 import ch.qos.logback.classic.Level;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -11,19 +9,15 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import java.util.concurrent.TimeUnit;
 
 /**
- * Data Consumer: consumes data from the kafka topic and writes in the defined format
+ * Data Consumer: consumes data from the kafka topics of all streams and writes in the defined format
  * @version 1.0
  * @author Agm Islam
  */
@@ -35,24 +29,35 @@ public class ConsumerClient implements Runnable {
     private static final LogWriter logWriter = new LogWriter();
 
     /**
-     * Creates a lock
+     * Routes the records to their streams, shared by all consumer threads
      */
-    private final Lock lock = new ReentrantLock();
+    private final StreamRouter router;
 
     /**
-     * Kafka Message Container for thread safe
+     * Writes the data files of all streams, shared by all consumer threads
      */
-    private static final List<Object> messageList = Collections.synchronizedList(new ArrayList<>());
+    private final ExecutorService writerPool;
 
+    /**
+     * Constructor
+     * @param router Routes the records to their streams
+     * @param writerPool Writes the data files of all streams
+     */
+    public ConsumerClient(StreamRouter router, ExecutorService writerPool) {
+        this.router = router;
+        this.writerPool = writerPool;
+    }
 
     /**
      * Defines the Kafka Consumer properties.
      *
-     * Subscribing to kafka topic.
+     * Subscribing to the kafka topics of all streams.
+     *
+     * Routes each record to its stream by topic and decodes the record value with the decoder of the stream
      *
      * Consumes max number of records at once
      *
-     * After the message list exceeds a threshold, message list is cleared and write to file
+     * After the message list of a stream exceeds its threshold, message list is cleared and written to file on the writer pool
      * the main logic that the thread will execute when started. It should be overridden
      * with the specific behavior that needs to be performed by the thread.
      *
@@ -66,46 +71,42 @@ public class ConsumerClient implements Runnable {
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, ConfigProperties.kafkaOffset);
         props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, ConfigProperties.kafkaMaxRecords);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, org.apache.kafka.common.serialization.StringDeserializer.class.getName());
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, org.apache.kafka.common.serialization.StringDeserializer.class.getName());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, org.apache.kafka.common.serialization.ByteArrayDeserializer.class.getName());
 
-        KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props);
+        KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(props);
 
         try {
             logWriter.writeInfoLog("Thread Started");
 
 
-            consumer.subscribe(Arrays.asList(ConfigProperties.kafkaTopic));
-            ObjectMapper objectMapper = new ObjectMapper();
-            String classname = ConfigProperties.classname;
+            router.subscribe(consumer);
 
             while (true) {
-                ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(1000));
+                ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(1000));
 
 
-                for (ConsumerRecord<String, String> record : records) {
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    DataStream stream = router.route(record.topic());         // Find the stream of the topic
+                    if (stream == null) {
+                        logWriter.writeErrorLog("No stream configured for topic " + record.topic());
+                        continue;
+                    }
+
                     try {
 
-                        Class<?> clazz = Class.forName(classname);                  // Dynamically load the class
-                        Object obj = objectMapper.readValue(record.value(), clazz); // Deserialize JSON string to the loaded class
-                        messageList.add(obj);                                       // Add to the list
+                        Object obj = stream.decoder.decode(record.value());   // Decode the record value to the class of the stream
+                        stream.add(obj);                                       // Add to the list of the stream
 
 
-                    } catch (ClassNotFoundException e) {
-                        logWriter.writeErrorLog("Error reading data of " + classname + ": " + e.getMessage());
+                    } catch (IOException e) {
+                        logWriter.writeErrorLog("Error reading data of " + stream.config.classname + ": " + e.getMessage());
 
                     }
                 }
 
-                // if the list size exceeds threshold, writes to the file and empty the list
-                if(messageList.size()>=ConfigProperties.dataMaxRecord){
-
-                    lock.lock();                                                // acquring lock
-                    List<Object> messagesCopy = new ArrayList<>(messageList);   // copy the list to be written
-                    writeMessagesToFile(messagesCopy);                          // writes to file
-                    messageList.removeAll(messagesCopy);                        //remove from the list
-                    lock.unlock();                                              // release the lock
-
-
+                // if the list size of a stream exceeds threshold, empty the list and write it to file on the writer pool
+                for (DataStream stream : router.getStreams()) {
+                    stream.writeIfFull(writerPool);
                 }
 
             }
@@ -144,46 +145,34 @@ public class ConsumerClient implements Runnable {
 
     }
 
-    /**
-     * Writes the given list of messages to a file using the appropriate file writer strategy.
-     *
-     * This method synchronizes access to ensure thread safety when writing to the file.
-     * It checks if the list of messages is not empty, retrieves the file type from the
-     * configuration properties, and obtains the corresponding file writer strategy using
-     * the FileWriterFactory. Then, it attempts to write the messages to the file using
-     * the selected file writer strategy. If an IOException occurs during the writing
-     * process, it logs an error message using the log writer.
-     *
-     * @param msg A list of messages to be written to the file.
-     */
-    private synchronized static void writeMessagesToFile(List<Object> msg) {
-
-        if (!msg.isEmpty()) {
-            String fileType = ConfigProperties.dataType;
-            FileWriterStrategy fileWriter = FileWriterFactory.getWriter(fileType);
-            try {
-                fileWriter.writeToFile(msg);
-
-            } catch (Exception e) {
-                logWriter.writeErrorLog("Error writing data in the file: " + fileType);
-            }
-
-        }
-    }
-
     /**
      * Entry point of the application.
      *
-     * This method initializes a ConsumerClient and creates a fixed thread pool executor
-     * based on the number of threads specified in the configuration properties.
+     * This method builds the streams from the configuration properties, initializes a
+     * ConsumerClient and creates a fixed thread pool executor based on the number of threads
+     * specified in the configuration properties, along with a writer pool for the data files.
+     * All streams share the same consumers, threads and writer pool.
      * It then submits instances of the ConsumerClient to the executor for execution.
-     * After all tasks are submitted, it shuts down the executor to release its resources.
+     * After all tasks are submitted, it shuts down the executor to release its resources,
+     * and shuts down the writer pool once the consumers have stopped.
      *
      * @param args The command-line arguments passed to the program (not used).
      */
     public static void main(String[] args) {
 
-        ConsumerClient consumerClient = new ConsumerClient();
+        StreamRouter router;
+        try {
+            router = new StreamRouter(ConfigProperties.loadStreams());
+        } catch (ClassNotFoundException e) {
+            logWriter.writeErrorLog("Error loading data class: " + e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            logWriter.writeErrorLog("Invalid stream configuration: " + e.getMessage());
+            return;
+        }
+
+        ExecutorService writerPool = Executors.newFixedThreadPool(ConfigProperties.noOfWriterThreads);
+        ConsumerClient consumerClient = new ConsumerClient(router, writerPool);
         int numofThreads = ConfigProperties.noOfThreads;
         ExecutorService executor = Executors.newFixedThreadPool(numofThreads);
 
@@ -194,5 +183,13 @@ public class ConsumerClient implements Runnable {
 
         // Shutdown the executor once the thread stops
         executor.shutdown();
+
+        // Shutdown the writer pool once the consumers stop, pending files are still written
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerPool.shutdown();
     }
 }
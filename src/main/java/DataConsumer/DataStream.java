@@ -0,0 +1,142 @@
+package DataConsumer;
+
+import DataDecoder.DataDecoderFactory;
+import DataDecoder.DataDecoderStrategy;
+import FileWriter.FileWriterFactory;
+import FileWriter.FileWriterStrategy;
+import LogGenerator.Configuration.StreamConfig;
+import LogGenerator.LogWriter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Data Stream: the decoder, writer and pending messages of one configured stream.
+ * Resolved once at startup so that records are routed without loading classes.
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class DataStream {
+
+    /**
+     * Logger
+     */
+    private static final LogWriter logWriter = new LogWriter();
+
+    /**
+     * Configuration of the stream
+     */
+    final StreamConfig config;
+
+    /**
+     * Decoder of the record values
+     */
+    final DataDecoderStrategy decoder;
+
+    /**
+     * Writer of the output files
+     */
+    private final FileWriterStrategy writer;
+
+    /**
+     * Set while a batch of the stream is being written to file
+     */
+    private final AtomicBoolean writing = new AtomicBoolean();
+
+    /**
+     * Kafka Message Container for thread safe
+     */
+    private final List<Object> messageList = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Constructor
+     * @param config Configuration of the stream
+     * @throws ClassNotFoundException If the class of the stream is not found
+     */
+    DataStream(StreamConfig config) throws ClassNotFoundException {
+        Class<?> clazz = Class.forName(config.classname);
+        this.config = config;
+        this.decoder = DataDecoderFactory.getDecoder(config.decoderType, clazz);
+        this.writer = FileWriterFactory.getWriter(config, clazz);
+    }
+
+    /**
+     * Adds a decoded message to the stream
+     * @param msg Decoded message
+     */
+    void add(Object msg) {
+        messageList.add(msg);
+    }
+
+    /**
+     * Checks whether the pending messages exceed the write threshold of the stream
+     * @return true if the messages should be written to file
+     */
+    private boolean isFull() {
+        return messageList.size() >= config.dataMaxRecord;
+    }
+
+    /**
+     * Hands the pending messages to the writer pool if they exceed the write threshold of the stream.
+     *
+     * The file is written on the writer pool, so that the polling thread does not wait for
+     * the file of one stream while records of the other streams are pending. Writes of the
+     * same stream are serialized: while a batch of the stream is being written, the messages
+     * keep accumulating and are handed over by a later call. The threshold is checked again
+     * after claiming the stream, since the messages may have been drained by another thread
+     * in the meantime. If the writer pool rejects the batch, it is written on the calling thread.
+     *
+     * @param writerPool The writer pool shared by all streams.
+     * @return true if the messages were handed over to be written
+     */
+    boolean writeIfFull(Executor writerPool) {
+        if (!isFull() || !writing.compareAndSet(false, true)) {
+            return false;
+        }
+        if (!isFull()) {
+            writing.set(false);
+            return false;
+        }
+
+        List<Object> messages = drain();
+        try {
+            writerPool.execute(() -> write(messages));
+        } catch (RejectedExecutionException e) {
+            write(messages);
+        }
+        return true;
+    }
+
+    /**
+     * Writes a batch of messages to file and releases the stream for the next batch.
+     * If an exception occurs during the writing process, it logs an error message using the log writer.
+     *
+     * @param messages The messages to be written to the file.
+     */
+    private void write(List<Object> messages) {
+        try {
+            writer.writeToFile(messages);
+
+        } catch (Exception e) {
+            logWriter.writeErrorLog("Error writing data in the file: " + config.dataType + " of stream " + config.name);
+        } finally {
+            writing.set(false);
+        }
+    }
+
+    /**
+     * Removes and returns all pending messages
+     * @return The pending messages
+     */
+    private List<Object> drain() {
+        synchronized (messageList) {
+            List<Object> messagesCopy = new ArrayList<>(messageList);
+            messageList.clear();
+            return messagesCopy;
+        }
+    }
+}
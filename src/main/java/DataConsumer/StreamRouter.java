@@ -0,0 +1,136 @@
+package DataConsumer;
+
+import LogGenerator.Configuration.StreamConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Stream Router: maps the topic of each kafka record to its data stream
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class StreamRouter {
+
+    /**
+     * All configured streams
+     */
+    private final List<DataStream> streams = new ArrayList<>();
+
+    /**
+     * Streams bound to a topic pattern, with their compiled patterns
+     */
+    private final List<DataStream> patternStreams = new ArrayList<>();
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    /**
+     * Topic to stream lookup. Holds the configured topics and caches the
+     * topics resolved against a topic pattern.
+     */
+    final Map<String, DataStream> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Builds the streams and the topic lookup from the stream configuration.
+     *
+     * @param configs The configured streams.
+     * @throws ClassNotFoundException If the class of a stream is not found.
+     * @throws IllegalArgumentException If a topic is configured for more than one stream.
+     */
+    public StreamRouter(List<StreamConfig> configs) throws ClassNotFoundException {
+        for (StreamConfig config : configs) {
+            DataStream stream = new DataStream(config);
+            streams.add(stream);
+
+            if (config.topic != null) {
+                if (routes.putIfAbsent(config.topic, stream) != null) {
+                    throw new IllegalArgumentException("Topic " + config.topic + " is configured for more than one stream");
+                }
+            } else {
+                patternStreams.add(stream);
+                patterns.add(Pattern.compile(config.topicPattern));
+            }
+        }
+    }
+
+    /**
+     * Returns the stream of the given topic.
+     *
+     * Configured topics are found with a single map lookup. A topic matched by a
+     * topic pattern is resolved on its first record and cached, patterns being
+     * checked in configuration order.
+     *
+     * @param topic The topic of the record.
+     * @return The stream of the topic, or null if no stream matches the topic.
+     */
+    public DataStream route(String topic) {
+        DataStream stream = routes.get(topic);
+        if (stream == null && !patternStreams.isEmpty()) {
+            stream = routes.computeIfAbsent(topic, this::matchPattern);
+        }
+        return stream;
+    }
+
+    /**
+     * Finds the first pattern stream matching the given topic.
+     *
+     * @param topic The topic of the record.
+     * @return The matching stream, or null if none matches.
+     */
+    private DataStream matchPattern(String topic) {
+        for (int i = 0; i < patterns.size(); i++) {
+            if (patterns.get(i).matcher(topic).matches()) {
+                return patternStreams.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Subscribes the consumer to the topics of all streams.
+     *
+     * Subscribes to the topic list when all streams are bound to a topic, otherwise to
+     * a single pattern combining the configured topics and topic patterns.
+     *
+     * @param consumer The kafka consumer.
+     */
+    public void subscribe(KafkaConsumer<?, ?> consumer) {
+        Pattern pattern = subscriptionPattern();
+        if (pattern == null) {
+            consumer.subscribe(new ArrayList<>(routes.keySet()));
+        } else {
+            consumer.subscribe(pattern);
+        }
+    }
+
+    /**
+     * Builds the pattern combining the configured topics and topic patterns.
+     *
+     * @return The combined pattern, or null if all streams are bound to a topic.
+     */
+    Pattern subscriptionPattern() {
+        if (patternStreams.isEmpty()) {
+            return null;
+        }
+
+        List<String> alternatives = new ArrayList<>();
+        for (DataStream stream : streams) {
+            alternatives.add(stream.config.topic != null
+                    ? Pattern.quote(stream.config.topic)
+                    : "(?:" + stream.config.topicPattern + ")");
+        }
+        return Pattern.compile(String.join("|", alternatives));
+    }
+
+    /**
+     * Returns all configured streams
+     * @return The streams
+     */
+    public List<DataStream> getStreams() {
+        return Collections.unmodifiableList(streams);
+    }
+}
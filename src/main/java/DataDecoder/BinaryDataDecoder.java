@@ -0,0 +1,118 @@
+package DataDecoder;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes records written in the compact binary format described by {@link BinarySchema}
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class BinaryDataDecoder implements DataDecoderStrategy {
+
+    /**
+     * Wire schema of the configured class
+     */
+    private final BinarySchema schema;
+
+    /**
+     * Constructor
+     * @param clazz The class the records are decoded into
+     */
+    public BinaryDataDecoder(Class<?> clazz) {
+        this.schema = new BinarySchema(clazz);
+    }
+
+    /**
+     * Decodes the record value directly from the given byte array.
+     *
+     * A new instance of the configured class is created and each field of the schema
+     * is read in order and assigned to it.
+     *
+     * @param data The binary record value.
+     * @return The decoded object.
+     * @throws IOException If the record value is null, truncated, has trailing bytes or the object cannot be created.
+     */
+    @Override
+    public Object decode(byte[] data) throws IOException {
+        if (data == null) {
+            throw new IOException("Record has no value");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        Field[] fields = schema.fields;
+        int[] types = schema.types;
+
+        try {
+            Object obj = schema.constructor.newInstance();
+
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                switch (types[i]) {
+                    case BinarySchema.BYTE:
+                        field.setByte(obj, buffer.get());
+                        break;
+                    case BinarySchema.BOOLEAN:
+                        field.setBoolean(obj, buffer.get() != 0);
+                        break;
+                    case BinarySchema.SHORT:
+                        field.setShort(obj, buffer.getShort());
+                        break;
+                    case BinarySchema.CHAR:
+                        field.setChar(obj, buffer.getChar());
+                        break;
+                    case BinarySchema.INT:
+                        field.setInt(obj, buffer.getInt());
+                        break;
+                    case BinarySchema.FLOAT:
+                        field.setFloat(obj, buffer.getFloat());
+                        break;
+                    case BinarySchema.LONG:
+                        field.setLong(obj, buffer.getLong());
+                        break;
+                    case BinarySchema.DOUBLE:
+                        field.setDouble(obj, buffer.getDouble());
+                        break;
+                    case BinarySchema.STRING:
+                        field.set(obj, readString(data, buffer));
+                        break;
+                    default:
+                        throw new IOException("Unknown wire type of field " + field.getName());
+                }
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IOException("Unexpected " + buffer.remaining() + " trailing bytes in record");
+            }
+            return obj;
+
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Record is shorter than the schema of " + schema.constructor.getName(), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IOException("Error creating " + schema.constructor.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string without copying the bytes out of the record.
+     *
+     * @param data The record value backing the buffer.
+     * @param buffer The buffer positioned at the length prefix.
+     * @return The string, or null if the length prefix is -1.
+     * @throws IOException If the length prefix is invalid.
+     */
+    private static String readString(byte[] data, ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid string length " + length + " in record");
+        }
+        int position = buffer.position();
+        buffer.position(position + length);
+        return new String(data, position, length, StandardCharsets.UTF_8);
+    }
+}
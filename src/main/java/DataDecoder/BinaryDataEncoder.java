@@ -0,0 +1,102 @@
+package DataDecoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes objects into the compact binary format described by {@link BinarySchema}.
+ * Producers use it to write records that {@link BinaryDataDecoder} reads back.
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class BinaryDataEncoder {
+
+    /**
+     * Wire schema of the configured class
+     */
+    private final BinarySchema schema;
+
+    /**
+     * Constructor
+     * @param clazz The class of the objects to encode
+     */
+    public BinaryDataEncoder(Class<?> clazz) {
+        this.schema = new BinarySchema(clazz);
+    }
+
+    /**
+     * Encodes the given object into a record value.
+     *
+     * @param obj The object to encode, an instance of the configured class.
+     * @return The binary record value.
+     * @throws IOException If a field of the object cannot be read.
+     */
+    public byte[] encode(Object obj) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        Field[] fields = schema.fields;
+        int[] types = schema.types;
+
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                switch (types[i]) {
+                    case BinarySchema.BYTE:
+                        out.writeByte(field.getByte(obj));
+                        break;
+                    case BinarySchema.BOOLEAN:
+                        out.writeBoolean(field.getBoolean(obj));
+                        break;
+                    case BinarySchema.SHORT:
+                        out.writeShort(field.getShort(obj));
+                        break;
+                    case BinarySchema.CHAR:
+                        out.writeChar(field.getChar(obj));
+                        break;
+                    case BinarySchema.INT:
+                        out.writeInt(field.getInt(obj));
+                        break;
+                    case BinarySchema.FLOAT:
+                        out.writeFloat(field.getFloat(obj));
+                        break;
+                    case BinarySchema.LONG:
+                        out.writeLong(field.getLong(obj));
+                        break;
+                    case BinarySchema.DOUBLE:
+                        out.writeDouble(field.getDouble(obj));
+                        break;
+                    case BinarySchema.STRING:
+                        writeString(out, (String) field.get(obj));
+                        break;
+                    default:
+                        throw new IOException("Unknown wire type of field " + field.getName());
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IOException("Error reading field: " + e.getMessage(), e);
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string, or length -1 for null.
+     *
+     * @param out The output stream.
+     * @param value The string to write.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+}
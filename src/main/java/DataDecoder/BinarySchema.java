@@ -0,0 +1,136 @@
+package DataDecoder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Binary wire schema of a data class.
+ *
+ * The schema consists of the public, non-static, non-final fields of the class ordered by field name,
+ * so that producers and consumers agree on the layout without depending on reflection order.
+ * Field names must be unique, a field may not hide an inherited field of the same name.
+ * Each field is written back to back, without any tags or separators:
+ * <ul>
+ *   <li>byte, boolean: 1 byte</li>
+ *   <li>short, char: 2 bytes, big-endian</li>
+ *   <li>int, float: 4 bytes, big-endian</li>
+ *   <li>long, double: 8 bytes, big-endian</li>
+ *   <li>String: 4 byte big-endian length followed by the UTF-8 bytes, length -1 for null</li>
+ * </ul>
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class BinarySchema {
+
+    static final int BYTE = 0;
+    static final int BOOLEAN = 1;
+    static final int SHORT = 2;
+    static final int CHAR = 3;
+    static final int INT = 4;
+    static final int FLOAT = 5;
+    static final int LONG = 6;
+    static final int DOUBLE = 7;
+    static final int STRING = 8;
+
+    /**
+     * Fields of the class in wire order
+     */
+    final Field[] fields;
+
+    /**
+     * Wire type of each field, indexed like fields
+     */
+    final int[] types;
+
+    /**
+     * No-argument constructor used to create decoded objects
+     */
+    final Constructor<?> constructor;
+
+    /**
+     * Builds the schema of the given class.
+     *
+     * @param clazz The data class.
+     * @throws IllegalArgumentException If the class has no no-argument constructor, a final field,
+     *                                  a duplicate field name, a field of an unsupported type
+     *                                  or its fields cannot be made accessible.
+     */
+    public BinarySchema(Class<?> clazz) {
+        List<Field> schemaFields = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Field field : clazz.getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers)) {
+                continue;
+            }
+            if (Modifier.isFinal(modifiers)) {
+                throw new IllegalArgumentException("Final field not supported for binary format: "
+                        + field.getName() + " in " + clazz.getName());
+            }
+            if (!names.add(field.getName())) {
+                throw new IllegalArgumentException("Duplicate field name not supported for binary format: "
+                        + field.getName() + " in " + clazz.getName());
+            }
+            schemaFields.add(field);
+        }
+        schemaFields.sort(Comparator.comparing(Field::getName));
+
+        this.fields = schemaFields.toArray(new Field[0]);
+        this.types = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            types[i] = typeOf(fields[i]);
+            makeAccessible(fields[i]);
+        }
+
+        try {
+            this.constructor = clazz.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("No default constructor in " + clazz.getName());
+        }
+    }
+
+    /**
+     * Makes a field accessible, so that fields of a non-public class can be read and
+     * assigned for every record.
+     *
+     * @param field The field.
+     * @throws IllegalArgumentException If the field cannot be made accessible.
+     */
+    private static void makeAccessible(Field field) {
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Field not accessible for binary format: "
+                    + field.getName() + " in " + field.getDeclaringClass().getName(), e);
+        }
+    }
+
+    /**
+     * Resolves the wire type of a field.
+     *
+     * @param field The field.
+     * @return The wire type of the field.
+     * @throws IllegalArgumentException If the field type is not supported.
+     */
+    private static int typeOf(Field field) {
+        Class<?> type = field.getType();
+        if (type == byte.class) return BYTE;
+        if (type == boolean.class) return BOOLEAN;
+        if (type == short.class) return SHORT;
+        if (type == char.class) return CHAR;
+        if (type == int.class) return INT;
+        if (type == float.class) return FLOAT;
+        if (type == long.class) return LONG;
+        if (type == double.class) return DOUBLE;
+        if (type == String.class) return STRING;
+        throw new IllegalArgumentException("Unsupported field type for binary format: "
+                + field.getName() + " " + type.getName());
+    }
+}
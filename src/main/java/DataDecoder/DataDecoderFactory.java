@@ -0,0 +1,31 @@
+package DataDecoder;
+
+/**
+ * Gets the appropriate record decoder object
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class DataDecoderFactory {
+
+    /**
+     * Returns a DataDecoderStrategy instance based on the specified decoder type.
+     *
+     * This method returns an instance of DataDecoderStrategy corresponding to the
+     * specified decoder type. Supported decoder types include "json" and "binary".
+     *
+     * @param decoderType The wire format of the records.
+     * @param clazz The class the records are decoded into.
+     * @return A DataDecoderStrategy instance for the specified decoder type.
+     * @throws IllegalArgumentException If the specified decoder type is not supported.
+     */
+    public static DataDecoderStrategy getDecoder(String decoderType, Class<?> clazz) {
+        switch (decoderType) {
+            case "json":
+                return new JsonDataDecoder(clazz);
+            case "binary":
+                return new BinaryDataDecoder(clazz);
+            default:
+                throw new IllegalArgumentException("Unsupported decoder type: " + decoderType);
+        }
+    }
+}
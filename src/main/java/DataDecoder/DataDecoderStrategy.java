@@ -0,0 +1,24 @@
+package DataDecoder;
+
+import java.io.IOException;
+
+/**
+ * Decoder Interface
+ * @version 1.0
+ * @author Agm Islam
+ */
+public interface DataDecoderStrategy {
+
+    /**
+     * Decodes a single kafka record value into an object.
+     *
+     * Implementations of this method should define the specific wire format
+     * that the record value is read from. A null record value (a kafka tombstone)
+     * is reported as an IOException like any other undecodable record.
+     *
+     * @param data The raw record value as received from the kafka topic, may be null.
+     * @return The decoded object.
+     * @throws IOException If the record value is null or cannot be decoded.
+     */
+    Object decode(byte[] data) throws IOException;
+}
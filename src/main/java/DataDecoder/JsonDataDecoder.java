@@ -0,0 +1,42 @@
+package DataDecoder;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Decodes JSON records
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class JsonDataDecoder implements DataDecoderStrategy {
+
+    /**
+     * Reader bound to the target class, created once and shared by all records
+     */
+    private final ObjectReader reader;
+
+    /**
+     * Constructor
+     * @param clazz The class the records are decoded into
+     */
+    public JsonDataDecoder(Class<?> clazz) {
+        this.reader = new ObjectMapper().readerFor(clazz);
+    }
+
+    /**
+     * Deserializes the JSON record value into the configured class.
+     *
+     * @param data The UTF-8 encoded JSON record value.
+     * @return The decoded object.
+     * @throws IOException If the record value is null or not valid JSON for the configured class.
+     */
+    @Override
+    public Object decode(byte[] data) throws IOException {
+        if (data == null) {
+            throw new IOException("Record has no value");
+        }
+        return reader.readValue(data);
+    }
+}
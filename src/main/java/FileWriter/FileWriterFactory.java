@@ -1,6 +1,6 @@
 package FileWriter;
 
-import LogGenerator.Configuration.ConfigProperties;
+import LogGenerator.Configuration.StreamConfig;
 
 import java.util.UUID;
 
@@ -13,36 +13,38 @@ import java.util.UUID;
 public class FileWriterFactory {
 
     /**
-     * Returns a FileWriterStrategy instance based on the specified file type.
+     * Returns a FileWriterStrategy instance based on the file type of the specified stream.
      *
      * This method returns an instance of FileWriterStrategy corresponding to the
-     * specified file type. Supported file types include "text" and "csv".
+     * data type of the stream. Supported file types include "text" and "csv".
      *
-     * @param fileType The type of file to write.
-     * @return A FileWriterStrategy instance for the specified file type.
+     * @param stream The stream whose data is written.
+     * @param clazz The class of the records in the stream.
+     * @return A FileWriterStrategy instance for the file type of the stream.
      * @throws IllegalArgumentException If the specified file type is not supported.
      */
-    public static FileWriterStrategy getWriter(String fileType) {
-        switch (fileType) {
+    public static FileWriterStrategy getWriter(StreamConfig stream, Class<?> clazz) {
+        switch (stream.dataType) {
             case "text":
             case "csv":
-                return new TextFileWriter();
+                return new TextFileWriter(stream, clazz);
             default:
-                throw new IllegalArgumentException("Unsupported file type: " + fileType);
+                throw new IllegalArgumentException("Unsupported file type: " + stream.dataType);
         }
     }
 
     /**
      * Generates a unique file name.
      *
-     * This method generates a unique file name using a UUID and the configured
-     * data file path and file extension from the configuration properties.
+     * This method generates a unique file name using a UUID and the data file path
+     * and file extension of the specified stream.
      *
+     * @param stream The stream whose data is written.
      * @return A unique file name.
      */
-    public static String getFileName(){
+    public static String getFileName(StreamConfig stream){
         UUID uuid = UUID.randomUUID();
-        String uniqueFileName = ConfigProperties.dataFilePath + "_" + uuid + "." + ConfigProperties.fileExtension;
+        String uniqueFileName = stream.dataFilePath + "_" + uuid + "." + stream.fileExtension;
         return uniqueFileName;
     }
 }
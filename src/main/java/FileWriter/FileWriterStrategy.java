@@ -18,7 +18,6 @@ public interface FileWriterStrategy {
      *
      * @param data The data to be written to the file.
      * @throws IOException If an I/O error occurs while writing to the file.
-     * @throws ClassNotFoundException If Class is not found
      */
-    void writeToFile(List<Object> data) throws IOException, ClassNotFoundException;
+    void writeToFile(List<Object> data) throws IOException;
 }
@@ -1,6 +1,6 @@
 package FileWriter;
 
-import LogGenerator.Configuration.ConfigProperties;
+import LogGenerator.Configuration.StreamConfig;
 import LogGenerator.LogWriter;
 
 import java.io.File;
@@ -19,30 +19,47 @@ public class TextFileWriter implements FileWriterStrategy{
 
     private static LogWriter logWriter = new LogWriter();
 
+    /**
+     * Stream whose data is written
+     */
+    private final StreamConfig stream;
+
+    /**
+     * Class of the records in the stream
+     */
+    private final Class<?> clazz;
+
+    /**
+     * Constructor
+     * @param stream Stream whose data is written
+     * @param clazz Class of the records in the stream
+     */
+    public TextFileWriter(StreamConfig stream, Class<?> clazz) {
+        this.stream = stream;
+        this.clazz = clazz;
+    }
+
     /**
      * Writes the given data to a text/csv file.
      *
      * This method writes the provided data to a text file, with each data entry
-     * represented as a separate line in the file. It generates a unique file name
+     * represented as a separate line in the file, using the public fields of the class
+     * of the stream. It generates a unique file name from the path of the stream
      * using the FileWriterFactory and logs information about the writing process
      * using a LogWriter.
      *
      * @param data List of the data to be written to the text file.
      * @throws IOException If an I/O error occurs while writing to the file.
-     * @throws ClassNotFoundException If the class is not found
      */
     @Override
-    public void writeToFile(List<Object> data) throws IOException, ClassNotFoundException {
+    public void writeToFile(List<Object> data) throws IOException {
 
         logWriter.writeInfoLog("-write file initiated headers " );
         String header = "data";
-        String filename = FileWriterFactory.getFileName();
+        String filename = FileWriterFactory.getFileName(stream);
 
         FileWriter writer = null;
 
-        // get the object of the class
-        Class<?> clazz = Class.forName(ConfigProperties.classname);
-
         try {
             // Create the file if it doesn't exist
             File file = new File(filename);
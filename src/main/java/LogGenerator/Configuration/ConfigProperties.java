@@ -5,6 +5,9 @@ import org.apache.kafka.common.protocol.types.Field;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -82,6 +85,11 @@ public class ConfigProperties {
      */
     public static final int noOfThreads = Integer.parseInt(properties.getProperty("noThreads"));
 
+    /**
+     * Number of Threads writing data files, shared by all streams
+     */
+    public static final int noOfWriterThreads = Integer.parseInt(properties.getProperty("noWriterThreads", String.valueOf(noOfThreads)));
+
     /**
      * Number of data to write at once
      */
@@ -111,4 +119,67 @@ public class ConfigProperties {
      * Class name to be consumed from kafka topic
      */
     public static final String classname = properties.getProperty("classname");
+
+    /**
+     * Wire format of the records in the kafka topic: json/binary
+     */
+    public static final String decoderType = properties.getProperty("decoderType", "json");
+
+    /**
+     * Loads the data streams consumed by the application from the configuration file.
+     *
+     * The streams are defined by the comma separated "streams" property, otherwise a single
+     * stream is built from the topic, class and file properties above. Blank names are skipped.
+     * Each listed stream is configured with "stream.&lt;name&gt;.*" properties: topic or
+     * topicpattern, classname and datafilepath are required, while decoderType, dataType,
+     * fileextesion and numberofdatarecords fall back to the global properties.
+     *
+     * The streams are validated here rather than in the static initializer, so that a bad
+     * stream entry can be reported by the caller instead of failing the class initialization.
+     *
+     * @return The configured streams.
+     * @throws IllegalArgumentException If a stream is not configured correctly,
+     *                                  including a numberofdatarecords that is not a number.
+     */
+    public static List<StreamConfig> loadStreams() {
+        return loadStreams(properties);
+    }
+
+    /**
+     * Loads the data streams from the given stream properties, falling back to the global
+     * properties of the configuration file.
+     *
+     * @param streamProperties The properties defining the streams.
+     * @return The configured streams.
+     * @throws IllegalArgumentException If a stream is not configured correctly.
+     */
+    static List<StreamConfig> loadStreams(Properties streamProperties) {
+        List<StreamConfig> streamList = new ArrayList<>();
+        String names = streamProperties.getProperty("streams", "");
+
+        for (String name : names.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            String prefix = "stream." + name + ".";
+            String maxRecord = streamProperties.getProperty(prefix + "numberofdatarecords");
+
+            streamList.add(new StreamConfig(name,
+                    streamProperties.getProperty(prefix + "topic"),
+                    streamProperties.getProperty(prefix + "topicpattern"),
+                    streamProperties.getProperty(prefix + "classname"),
+                    streamProperties.getProperty(prefix + "decoderType", decoderType),
+                    streamProperties.getProperty(prefix + "dataType", dataType),
+                    streamProperties.getProperty(prefix + "datafilepath"),
+                    streamProperties.getProperty(prefix + "fileextesion", fileExtension),
+                    maxRecord == null ? dataMaxRecord : Integer.parseInt(maxRecord.trim())));
+        }
+
+        if (streamList.isEmpty()) {
+            return Collections.singletonList(new StreamConfig("default", kafkaTopic, null, classname,
+                    decoderType, dataType, dataFilePath, fileExtension, dataMaxRecord));
+        }
+        return Collections.unmodifiableList(streamList);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package LogGenerator.Configuration;
+
+/**
+ * Configuration of a single data stream: the kafka topic it is consumed from,
+ * the class its records are decoded into and where they are written.
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class StreamConfig {
+
+    /**
+     * Name of the stream
+     */
+    public final String name;
+
+    /**
+     * Kafka topic, null if the stream is bound to a topic pattern
+     */
+    public final String topic;
+
+    /**
+     * Kafka topic pattern (regular expression), null if the stream is bound to a single topic
+     */
+    public final String topicPattern;
+
+    /**
+     * Class name of the records in the stream
+     */
+    public final String classname;
+
+    /**
+     * Wire format of the records: json/binary
+     */
+    public final String decoderType;
+
+    /**
+     * Data Type of the output file
+     */
+    public final String dataType;
+
+    /**
+     * File path where data will be written
+     */
+    public final String dataFilePath;
+
+    /**
+     * Data Type Extension
+     */
+    public final String fileExtension;
+
+    /**
+     * Number of data to write at once
+     */
+    public final int dataMaxRecord;
+
+    /**
+     * Constructor
+     * @param name Name of the stream
+     * @param topic Kafka topic, null if topicPattern is set
+     * @param topicPattern Kafka topic pattern, null if topic is set
+     * @param classname Class name of the records
+     * @param decoderType Wire format of the records
+     * @param dataType Data Type of the output file
+     * @param dataFilePath File path where data will be written
+     * @param fileExtension Data Type Extension
+     * @param dataMaxRecord Number of data to write at once
+     * @throws IllegalArgumentException If the stream has neither or both of topic and topicPattern,
+     *                                  or no class name, file path, decoder type or data type.
+     */
+    public StreamConfig(String name, String topic, String topicPattern, String classname, String decoderType,
+                        String dataType, String dataFilePath, String fileExtension, int dataMaxRecord) {
+
+        if ((topic == null) == (topicPattern == null)) {
+            throw new IllegalArgumentException("Stream " + name + " needs exactly one of topic or topicpattern");
+        }
+        if (classname == null || dataFilePath == null) {
+            throw new IllegalArgumentException("Stream " + name + " needs a classname and a datafilepath");
+        }
+        if (decoderType == null || dataType == null) {
+            throw new IllegalArgumentException("Stream " + name + " needs a decoderType and a dataType");
+        }
+
+        this.name = name;
+        this.topic = topic;
+        this.topicPattern = topicPattern;
+        this.classname = classname;
+        this.decoderType = decoderType;
+        this.dataType = dataType;
+        this.dataFilePath = dataFilePath;
+        this.fileExtension = fileExtension;
+        this.dataMaxRecord = dataMaxRecord;
+    }
+}
@@ -0,0 +1,19 @@
+package Data;
+
+/**
+ * Data class not accessible outside of its package, used to test the binary format
+ * @version 1.0
+ * @author Agm Islam
+ */
+class HiddenData {
+
+    /**
+     * Id of the data
+     */
+    public long id;
+
+    /**
+     * Name of the data
+     */
+    public String name;
+}
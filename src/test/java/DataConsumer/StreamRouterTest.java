@@ -0,0 +1,171 @@
+package DataConsumer;
+
+import Data.UserData;
+import LogGenerator.Configuration.StreamConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the topic to stream routing and of the stream write threshold
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class StreamRouterTest {
+
+    @TempDir
+    Path dataDir;
+
+    private StreamConfig topic(String name, String topic) {
+        return new StreamConfig(name, topic, null, "Data.UserData", "json", "text",
+                dataDir.resolve(name).toString(), "txt", 2);
+    }
+
+    private StreamConfig pattern(String name, String topicPattern) {
+        return new StreamConfig(name, null, topicPattern, "Data.UserData", "json", "text",
+                dataDir.resolve(name).toString(), "txt", 2);
+    }
+
+    private static StreamRouter router(StreamConfig... configs) throws ClassNotFoundException {
+        return new StreamRouter(List.of(configs));
+    }
+
+    @Test
+    public void routesConfiguredTopics() throws ClassNotFoundException {
+        StreamRouter router = router(topic("users", "users"), topic("orders", "orders"));
+
+        assertEquals("users", router.route("users").config.name);
+        assertEquals("orders", router.route("orders").config.name);
+        assertNull(router.route("other"));
+        assertEquals(2, router.getStreams().size());
+    }
+
+    @Test
+    public void cachesPatternTopicsOnFirstRecord() throws ClassNotFoundException {
+        StreamRouter router = router(pattern("logs", "logs-.*"));
+
+        assertFalse(router.routes.containsKey("logs-a"));
+        DataStream stream = router.route("logs-a");
+
+        assertEquals("logs", stream.config.name);
+        assertSame(stream, router.routes.get("logs-a"));
+        assertSame(stream, router.route("logs-a"));
+    }
+
+    @Test
+    public void doesNotCacheUnmatchedTopics() throws ClassNotFoundException {
+        StreamRouter router = router(pattern("logs", "logs-.*"));
+
+        assertNull(router.route("metrics"));
+        assertFalse(router.routes.containsKey("metrics"));
+    }
+
+    @Test
+    public void configuredTopicTakesPriorityOverPattern() throws ClassNotFoundException {
+        StreamRouter router = router(pattern("logs", "logs-.*"), topic("audit", "logs-audit"));
+
+        assertEquals("audit", router.route("logs-audit").config.name);
+        assertEquals("logs", router.route("logs-other").config.name);
+    }
+
+    @Test
+    public void firstMatchingPatternWins() throws ClassNotFoundException {
+        StreamRouter router = router(pattern("first", "logs-.*"), pattern("second", "logs-a.*"));
+
+        assertEquals("first", router.route("logs-abc").config.name);
+    }
+
+    @Test
+    public void rejectsDuplicateTopics() {
+        assertThrows(IllegalArgumentException.class,
+                () -> router(topic("users", "users"), topic("people", "users")));
+    }
+
+    @Test
+    public void rejectsInvalidTopicPattern() {
+        assertThrows(IllegalArgumentException.class, () -> router(pattern("logs", "logs-(")));
+    }
+
+    @Test
+    public void subscribesToTopicListWithoutPatterns() throws ClassNotFoundException {
+        assertNull(router(topic("users", "users"), topic("orders", "orders")).subscriptionPattern());
+    }
+
+    @Test
+    public void combinesTopicsAndPatternsInSubscription() throws ClassNotFoundException {
+        Pattern subscription = router(topic("users", "user.data"), pattern("logs", "logs-[0-9]+")).subscriptionPattern();
+
+        assertNotNull(subscription);
+        assertTrue(subscription.matcher("user.data").matches());
+        assertTrue(subscription.matcher("logs-42").matches());
+        assertFalse(subscription.matcher("userXdata").matches());
+        assertFalse(subscription.matcher("logs-x").matches());
+    }
+
+    @Test
+    public void writesStreamOnlyWhenFull() throws ClassNotFoundException {
+        DataStream stream = router(topic("users", "users")).route("users");
+        List<Runnable> writerPool = new ArrayList<>();
+
+        stream.add(new UserData());
+        assertFalse(stream.writeIfFull(writerPool::add));
+
+        stream.add(new UserData());
+        assertTrue(stream.writeIfFull(writerPool::add));
+        assertEquals(1, writerPool.size());
+
+        // drained: not written again until the threshold is reached again
+        assertFalse(stream.writeIfFull(writerPool::add));
+        assertEquals(1, writerPool.size());
+    }
+
+    @Test
+    public void serializesWritesOfTheSameStream() throws ClassNotFoundException {
+        DataStream stream = router(topic("users", "users")).route("users");
+        List<Runnable> writerPool = new ArrayList<>();
+
+        stream.add(new UserData());
+        stream.add(new UserData());
+        assertTrue(stream.writeIfFull(writerPool::add));
+
+        // the first batch is still being written
+        stream.add(new UserData());
+        stream.add(new UserData());
+        assertFalse(stream.writeIfFull(writerPool::add));
+
+        writerPool.remove(0).run();
+        assertTrue(stream.writeIfFull(writerPool::add));
+        writerPool.remove(0).run();
+
+        File[] files = dataDir.toFile().listFiles((dir, name) -> name.startsWith("users_"));
+        assertEquals(2, files.length);
+    }
+
+    @Test
+    public void writesOnCallingThreadWhenPoolRejects() throws ClassNotFoundException {
+        DataStream stream = router(topic("users", "users")).route("users");
+
+        stream.add(new UserData());
+        stream.add(new UserData());
+        assertTrue(stream.writeIfFull(task -> {
+            throw new RejectedExecutionException();
+        }));
+
+        File[] files = dataDir.toFile().listFiles((dir, name) -> name.startsWith("users_"));
+        assertEquals(1, files.length);
+    }
+}
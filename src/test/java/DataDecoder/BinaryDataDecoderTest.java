@@ -0,0 +1,123 @@
+package DataDecoder;
+
+import Data.UserData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Round trip tests of the binary wire format
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class BinaryDataDecoderTest {
+
+    private final BinaryDataEncoder encoder = new BinaryDataEncoder(UserData.class);
+    private final BinaryDataDecoder decoder = new BinaryDataDecoder(UserData.class);
+
+    /**
+     * Fields with a final modifier cannot be decoded
+     */
+    public static class FinalData {
+        public final int id = 1;
+    }
+
+    /**
+     * Data class hiding an inherited field of the same name
+     */
+    public static class HidingData extends UserData {
+        public int name;
+    }
+
+    private static UserData user(String name, int age, String gender) {
+        UserData user = new UserData();
+        user.name = name;
+        user.age = age;
+        user.gender = gender;
+        return user;
+    }
+
+    @Test
+    public void roundTrip() throws IOException {
+        UserData decoded = (UserData) decoder.decode(encoder.encode(user("Alice", 30, "female")));
+
+        assertEquals("Alice", decoded.name);
+        assertEquals(30, decoded.age);
+        assertEquals("female", decoded.gender);
+    }
+
+    @Test
+    public void roundTripNullString() throws IOException {
+        UserData decoded = (UserData) decoder.decode(encoder.encode(user(null, -1, null)));
+
+        assertNull(decoded.name);
+        assertEquals(-1, decoded.age);
+        assertNull(decoded.gender);
+    }
+
+    @Test
+    public void roundTripMultiByteUtf8() throws IOException {
+        String name = "Zo\u00eb \u6771\u4eac \ud83d\ude00";
+        UserData decoded = (UserData) decoder.decode(encoder.encode(user(name, 7, "")));
+
+        assertEquals(name, decoded.name);
+        assertEquals("", decoded.gender);
+    }
+
+    @Test
+    public void wireLayout() throws IOException {
+        // fields ordered by name: age, gender, name
+        byte[] expected = {0, 0, 0, 42, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0, 0, 0, 1, 'a'};
+
+        assertArrayEquals(expected, encoder.encode(user("a", 42, null)));
+    }
+
+    @Test
+    public void rejectsTruncatedRecord() throws IOException {
+        byte[] data = encoder.encode(user("Alice", 30, "female"));
+
+        for (int length = 0; length < data.length; length++) {
+            byte[] truncated = Arrays.copyOf(data, length);
+            assertThrows(IOException.class, () -> decoder.decode(truncated));
+        }
+    }
+
+    @Test
+    public void rejectsTrailingBytes() throws IOException {
+        byte[] data = encoder.encode(user("Alice", 30, "female"));
+
+        assertThrows(IOException.class, () -> decoder.decode(Arrays.copyOf(data, data.length + 1)));
+    }
+
+    @Test
+    public void rejectsNullRecord() {
+        assertThrows(IOException.class, () -> decoder.decode(null));
+    }
+
+    @Test
+    public void rejectsFinalFields() {
+        assertThrows(IllegalArgumentException.class, () -> new BinarySchema(FinalData.class));
+    }
+
+    @Test
+    public void rejectsDuplicateFieldNames() {
+        assertThrows(IllegalArgumentException.class, () -> new BinarySchema(HidingData.class));
+    }
+
+    @Test
+    public void roundTripNonPublicClass() throws Exception {
+        // fields ordered by name: id, name
+        byte[] data = {0, 0, 0, 0, 0, 0, 0, 42, 0, 0, 0, 1, 'a'};
+        Class<?> clazz = Class.forName("Data.HiddenData");
+
+        Object decoded = new BinaryDataDecoder(clazz).decode(data);
+
+        assertArrayEquals(data, new BinaryDataEncoder(clazz).encode(decoded));
+    }
+}
@@ -0,0 +1,30 @@
+package DataDecoder;
+
+import Data.UserData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the record decoder factory
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class DataDecoderFactoryTest {
+
+    @Test
+    public void returnsJsonDecoder() {
+        assertTrue(DataDecoderFactory.getDecoder("json", UserData.class) instanceof JsonDataDecoder);
+    }
+
+    @Test
+    public void returnsBinaryDecoder() {
+        assertTrue(DataDecoderFactory.getDecoder("binary", UserData.class) instanceof BinaryDataDecoder);
+    }
+
+    @Test
+    public void rejectsUnknownDecoderType() {
+        assertThrows(IllegalArgumentException.class, () -> DataDecoderFactory.getDecoder("avro", UserData.class));
+    }
+}
@@ -0,0 +1,53 @@
+package DataDecoder;
+
+import Data.UserData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the JSON record decoder
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class JsonDataDecoderTest {
+
+    private final JsonDataDecoder decoder = new JsonDataDecoder(UserData.class);
+
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void decodesRecord() throws IOException {
+        UserData decoded = (UserData) decoder.decode(utf8("{\"name\":\"Zo\u00eb\",\"age\":30,\"gender\":\"female\"}"));
+
+        assertEquals("Zo\u00eb", decoded.name);
+        assertEquals(30, decoded.age);
+        assertEquals("female", decoded.gender);
+    }
+
+    @Test
+    public void decodesMissingFieldsAsDefaults() throws IOException {
+        UserData decoded = (UserData) decoder.decode(utf8("{\"name\":null}"));
+
+        assertNull(decoded.name);
+        assertEquals(0, decoded.age);
+        assertNull(decoded.gender);
+    }
+
+    @Test
+    public void rejectsNullRecord() {
+        assertThrows(IOException.class, () -> decoder.decode(null));
+    }
+
+    @Test
+    public void rejectsInvalidJson() {
+        assertThrows(IOException.class, () -> decoder.decode(utf8("{\"name\":")));
+    }
+}
@@ -0,0 +1,116 @@
+package LogGenerator.Configuration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the stream configuration loading
+ * @version 1.0
+ * @author Agm Islam
+ */
+public class ConfigPropertiesTest {
+
+    @Test
+    public void buildsSingleStreamWithoutStreams() {
+        List<StreamConfig> streams = ConfigProperties.loadStreams(new Properties());
+
+        assertEquals(1, streams.size());
+        StreamConfig stream = streams.get(0);
+        assertEquals("default", stream.name);
+        assertEquals(ConfigProperties.kafkaTopic, stream.topic);
+        assertNull(stream.topicPattern);
+        assertEquals(ConfigProperties.classname, stream.classname);
+        assertEquals(ConfigProperties.decoderType, stream.decoderType);
+        assertEquals(ConfigProperties.dataType, stream.dataType);
+        assertEquals(ConfigProperties.dataFilePath, stream.dataFilePath);
+        assertEquals(ConfigProperties.fileExtension, stream.fileExtension);
+        assertEquals(ConfigProperties.dataMaxRecord, stream.dataMaxRecord);
+    }
+
+    @Test
+    public void buildsSingleStreamWithOnlyBlankNames() {
+        Properties properties = new Properties();
+        properties.setProperty("streams", " , ,");
+
+        List<StreamConfig> streams = ConfigProperties.loadStreams(properties);
+
+        assertEquals(1, streams.size());
+        assertEquals("default", streams.get(0).name);
+    }
+
+    @Test
+    public void streamsFallBackToGlobalProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("streams", "users, logs,");
+        properties.setProperty("stream.users.topic", "users");
+        properties.setProperty("stream.users.classname", "Data.UserData");
+        properties.setProperty("stream.users.datafilepath", "data/users");
+        properties.setProperty("stream.logs.topicpattern", "logs-.*");
+        properties.setProperty("stream.logs.classname", "Data.UserData");
+        properties.setProperty("stream.logs.datafilepath", "data/logs");
+        properties.setProperty("stream.logs.decoderType", "binary");
+        properties.setProperty("stream.logs.dataType", "csv");
+        properties.setProperty("stream.logs.fileextesion", "csv");
+        properties.setProperty("stream.logs.numberofdatarecords", " 50");
+
+        List<StreamConfig> streams = ConfigProperties.loadStreams(properties);
+
+        assertEquals(2, streams.size());
+        StreamConfig users = streams.get(0);
+        assertEquals("users", users.name);
+        assertEquals("users", users.topic);
+        assertEquals(ConfigProperties.decoderType, users.decoderType);
+        assertEquals(ConfigProperties.dataType, users.dataType);
+        assertEquals(ConfigProperties.fileExtension, users.fileExtension);
+        assertEquals(ConfigProperties.dataMaxRecord, users.dataMaxRecord);
+
+        StreamConfig logs = streams.get(1);
+        assertEquals("logs", logs.name);
+        assertNull(logs.topic);
+        assertEquals("logs-.*", logs.topicPattern);
+        assertEquals("binary", logs.decoderType);
+        assertEquals("csv", logs.dataType);
+        assertEquals("csv", logs.fileExtension);
+        assertEquals(50, logs.dataMaxRecord);
+    }
+
+    @Test
+    public void rejectsStreamWithoutTopic() {
+        Properties properties = new Properties();
+        properties.setProperty("streams", "users");
+        properties.setProperty("stream.users.classname", "Data.UserData");
+        properties.setProperty("stream.users.datafilepath", "data/users");
+
+        assertThrows(IllegalArgumentException.class, () -> ConfigProperties.loadStreams(properties));
+    }
+
+    @Test
+    public void rejectsInvalidNumberOfRecords() {
+        Properties properties = new Properties();
+        properties.setProperty("streams", "users");
+        properties.setProperty("stream.users.topic", "users");
+        properties.setProperty("stream.users.classname", "Data.UserData");
+        properties.setProperty("stream.users.datafilepath", "data/users");
+        properties.setProperty("stream.users.numberofdatarecords", "many");
+
+        assertThrows(IllegalArgumentException.class, () -> ConfigProperties.loadStreams(properties));
+    }
+
+    @Test
+    public void rejectsStreamWithoutDataType() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamConfig("users", "users", null,
+                "Data.UserData", "json", null, "data/users", "txt", 2));
+    }
+
+    @Test
+    public void rejectsStreamWithoutDecoderType() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamConfig("users", "users", null,
+                "Data.UserData", null, "text", "data/users", "txt", 2));
+    }
+}